@@ -0,0 +1,75 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.model.Employee;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the encoded JSON of recently read employees so that repeated reads of an
+ * unchanged record skip Jackson. Entries are keyed by id and only served while the
+ * entity version still matches; the cache is bounded by the total size of the
+ * encoded bytes. Reads do not lock, so hot records can be served concurrently.
+ */
+@Component
+public class EmployeeJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Integer, Entry> entries;
+
+    public EmployeeJsonCache(ObjectMapper objectMapper,
+                             @Value("${app.employee-json-cache.max-bytes:1048576}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Integer id, Entry entry) -> entry.json.length)
+                .build();
+    }
+
+    /**
+     * Returns the JSON encoding of the given employee, serializing it only if no entry
+     * exists for its id and version. The returned array is shared and must not be modified.
+     */
+    public byte[] getOrSerialize(Employee employee) {
+        Integer id = employee.getId();
+        Integer version = employee.getVersion();
+        if (id == null || version == null) {
+            return serialize(employee);
+        }
+        Entry entry = entries.getIfPresent(id);
+        if (entry != null && entry.version.equals(version)) {
+            return entry.json;
+        }
+        byte[] json = serialize(employee);
+        entries.put(id, new Entry(version, json));
+        return json;
+    }
+
+    public void evict(Integer id) {
+        entries.invalidate(id);
+    }
+
+    public long getTotalBytes() {
+        entries.cleanUp();
+        return entries.policy().eviction().orElseThrow().weightedSize().orElse(0L);
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private byte[] serialize(Employee employee) {
+        try {
+            return objectMapper.writeValueAsBytes(employee);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize employee with Id : '" + employee.getId() + "'", e);
+        }
+    }
+
+    private record Entry(Integer version, byte[] json) {
+    }
+}
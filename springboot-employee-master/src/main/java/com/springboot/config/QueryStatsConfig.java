@@ -0,0 +1,49 @@
+package com.springboot.config;
+
+import com.springboot.monitoring.QueryStatsFilter;
+import com.springboot.monitoring.StatementInspectingDataSource;
+import com.springboot.sharding.ShardRouter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "app.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+    @Bean
+    public static BeanPostProcessor statementInspectingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementInspectingDataSource)) {
+                    return new StatementInspectingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(
+            @Value("${app.query-stats.headers:true}") boolean addHeaders,
+            @Value("${app.query-stats.fail-on-budget-exceeded:false}") boolean failOnBudgetExceeded,
+            ObjectProvider<ShardRouter> shardRouter) {
+        // resolved per check, the filter is created before the shard router exists
+        QueryStatsFilter filter = new QueryStatsFilter(addHeaders, failOnBudgetExceeded, () -> {
+            ShardRouter router = shardRouter.getIfAvailable();
+            return router != null ? router.getShards().size() : 1;
+        });
+        FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
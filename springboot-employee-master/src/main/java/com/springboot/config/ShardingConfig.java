@@ -0,0 +1,77 @@
+package com.springboot.config;
+
+import com.springboot.cache.EmployeeJsonCache;
+import com.springboot.monitoring.StatementInspectingDataSource;
+import com.springboot.service.EmployeeService;
+import com.springboot.service.ShardedEmployeeServiceImpl;
+import com.springboot.sharding.Shard;
+import com.springboot.sharding.ShardRebalancer;
+import com.springboot.sharding.ShardRouter;
+import com.springboot.sharding.ShardSchema;
+import com.springboot.sharding.ShardedIdGenerator;
+import com.springboot.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    // connections left for findById, update and delete next to the scatter queries, Hikari's default pool size
+    private static final int REQUEST_CONNECTIONS = 10;
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.ShardProperties shardProperties = properties.getShards().get(i);
+            String name = shardProperties.getName() != null ? shardProperties.getName() : "shard-" + i;
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(shardProperties.getUrl());
+            dataSource.setUsername(shardProperties.getUsername());
+            dataSource.setPassword(shardProperties.getPassword());
+            dataSource.setMaximumPoolSize(shardProperties.getMaximumPoolSize() != null
+                    ? shardProperties.getMaximumPoolSize()
+                    : properties.getScatterConcurrency() + REQUEST_CONNECTIONS);
+            shards.add(new Shard(name, new StatementInspectingDataSource(dataSource)));
+        }
+        ShardRouter router = new ShardRouter(shards, properties.getVirtualNodes(), properties.getScatterConcurrency());
+        ShardSchema.initialize(router);
+        return router;
+    }
+
+    @Bean
+    public ShardedIdGenerator shardedIdGenerator(ShardRouter shardRouter, ShardingProperties properties) {
+        return new ShardedIdGenerator(shardRouter, properties.getIdBlockSize());
+    }
+
+    @Bean
+    public EmployeeService shardedEmployeeService(ShardRouter shardRouter, ShardedIdGenerator shardedIdGenerator,
+                                                  EmployeeJsonCache employeeJsonCache) {
+        return new ShardedEmployeeServiceImpl(shardRouter, shardedIdGenerator, employeeJsonCache);
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardRouter shardRouter, ShardingProperties properties) {
+        return new ShardRebalancer(shardRouter, properties.getRebalanceBatchSize());
+    }
+
+    /**
+     * Runs once all singletons exist, which is before the web server is started, so no
+     * request is routed to a shard that does not hold its employee yet.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.sharding.rebalance-on-startup", havingValue = "true")
+    public SmartInitializingSingleton shardRebalanceOnStartup(ShardRebalancer shardRebalancer) {
+        return shardRebalancer::rebalance;
+    }
+}
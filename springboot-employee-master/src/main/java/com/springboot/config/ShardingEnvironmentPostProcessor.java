@@ -0,0 +1,42 @@
+package com.springboot.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+
+/**
+ * In sharded mode employees are stored through the shard datasources only, so the
+ * single {@code spring.datasource}, JPA and {@code EmployeeRepository} are left out;
+ * sharded mode does not need that database to be reachable and runs no DDL on it.
+ */
+public class ShardingEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+
+    private static final String[] SINGLE_DATASOURCE_AUTO_CONFIGURATIONS = {
+            DataSourceAutoConfiguration.class.getName(),
+            HibernateJpaAutoConfiguration.class.getName(),
+            JpaRepositoriesAutoConfiguration.class.getName()
+    };
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("app.sharding.enabled", Boolean.class, false)) {
+            return;
+        }
+        String exclude = StringUtils.arrayToCommaDelimitedString(SINGLE_DATASOURCE_AUTO_CONFIGURATIONS);
+        String existing = environment.getProperty(EXCLUDE_PROPERTY);
+        if (StringUtils.hasText(existing)) {
+            exclude = existing + "," + exclude;
+        }
+        environment.getPropertySources()
+                .addFirst(new MapPropertySource("shardingExcludes", Map.of(EXCLUDE_PROPERTY, exclude)));
+    }
+}
@@ -1,16 +1,23 @@
 package com.springboot.controller;
 
+import com.springboot.cache.EmployeeJsonCache;
 import com.springboot.exception.EmployeeNotFoundException;
+import com.springboot.exception.InvalidPageRequestException;
 import com.springboot.model.Employee;
+import com.springboot.monitoring.QueryBudget;
 import com.springboot.service.EmployeeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -18,30 +25,70 @@ public class EmployeeController {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
+    // in sharded mode every shard returns up to page * size + size rows, so both are capped
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_PAGE_OFFSET = 10_000;
+
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeJsonCache employeeJsonCache;
+
     @PostMapping("/create")
+    @QueryBudget(maxStatements = 1)
     public ResponseEntity<Employee> save(@RequestBody Employee employee) {
         Employee savedEmployee = employeeService.save(employee);
         logger.info("Creating an employee with details: ID={}, Name={}, Email={}", savedEmployee.getId(), savedEmployee.getName(), savedEmployee.getEmail());
         return new ResponseEntity<>(savedEmployee, HttpStatus.CREATED);
     }
 
+    @GetMapping
+    @QueryBudget(maxStatements = 1, perShard = true)
+    public ResponseEntity<List<Employee>> getAll() {
+        List<Employee> employees = employeeService.getAll();
+        logger.info("Retrieved {} employees", employees.size());
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping("/page")
+    @QueryBudget(maxStatements = 2, perShard = true)
+    public ResponseEntity<Page<Employee>> getPage(@RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE || (long) page * size > MAX_PAGE_OFFSET) {
+            throw new InvalidPageRequestException(page, size, MAX_PAGE_SIZE, MAX_PAGE_OFFSET);
+        }
+        Page<Employee> employees = employeeService.getPage(PageRequest.of(page, size, Sort.by("id")));
+        logger.info("Retrieved page {} of employees: {} of {} employees", page, employees.getNumberOfElements(), employees.getTotalElements());
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping("/count")
+    @QueryBudget(maxStatements = 1, perShard = true)
+    public ResponseEntity<Long> count() {
+        return ResponseEntity.ok(employeeService.count());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Optional<Employee>> getById(@PathVariable Integer id) {
-        Optional<Employee> employee = employeeService.findById(id);
-        employee.ifPresent(e -> logger.info("Retrieved employee details: ID={}, Name={}, Email={}", e.getId(), e.getName(), e.getEmail()));
-        return ResponseEntity.ok(employee);
+    @QueryBudget(maxStatements = 1)
+    public ResponseEntity<byte[]> getById(@PathVariable Integer id) {
+        Employee employee = employeeService.findById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee", "Id", id));
+        logger.info("Retrieved employee details: ID={}, Name={}, Email={}", employee.getId(), employee.getName(), employee.getEmail());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(employeeJsonCache.getOrSerialize(employee));
     }
 
     @PutMapping("/{id}")
+    @QueryBudget(maxStatements = 2)
     public ResponseEntity<Employee> update(@PathVariable Integer id, @RequestBody Employee employee) {
         logger.info("Updating employee with ID={}, New Details: Name={}, Email={}", id, employee.getName(), employee.getEmail());
         return ResponseEntity.ok(employeeService.update(employee, id));
     }
 
     @DeleteMapping("/{id}")
+    @QueryBudget(maxStatements = 2)
     public ResponseEntity<String> delete(@PathVariable Integer id) {
         Employee employee = employeeService.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee", "Id", id));
@@ -0,0 +1,27 @@
+package com.springboot.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class InvalidPageRequestException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int page;
+    private final int size;
+
+    public InvalidPageRequestException(int page, int size, int maxSize, int maxOffset) {
+        super(String.format("Invalid page request page : '%s', size : '%s' (page must be >= 0, size between 1 and %s, page * size at most %s)",
+                page, size, maxSize, maxOffset));
+        this.page = page;
+        this.size = size;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
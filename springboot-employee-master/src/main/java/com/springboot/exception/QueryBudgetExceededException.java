@@ -0,0 +1,28 @@
+package com.springboot.exception;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String endpoint;
+    private final int maxStatements;
+    private final int actualStatements;
+
+    public QueryBudgetExceededException(String endpoint, int maxStatements, int actualStatements) {
+        super(String.format("%s executed %d SQL statement(s), budget is %d", endpoint, actualStatements, maxStatements));
+        this.endpoint = endpoint;
+        this.maxStatements = maxStatements;
+        this.actualStatements = actualStatements;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public int getActualStatements() {
+        return actualStatements;
+    }
+}
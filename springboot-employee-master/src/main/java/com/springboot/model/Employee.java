@@ -27,4 +27,8 @@ public class Employee {
 
     @Column(name = "role")
     private String role;
+
+    @Version
+    @Column(name = "version")
+    private Integer version;
 }
\ No newline at end of file
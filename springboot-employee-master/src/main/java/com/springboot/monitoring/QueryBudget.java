@@ -0,0 +1,22 @@
+package com.springboot.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a handler method may execute per request.
+ * Checked by {@link QueryStatsFilter} once the request has completed. Handlers that query
+ * every shard declare a per-shard budget, which is multiplied by the number of shards.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int maxStatements();
+
+    boolean perShard() default false;
+}
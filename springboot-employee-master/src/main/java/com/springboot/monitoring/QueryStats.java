@@ -0,0 +1,61 @@
+package com.springboot.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of SQL statements and total time spent in the database for one unit of work,
+ * usually a single HTTP request. The active instance is bound to the current thread.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    /**
+     * Binds a fresh instance to the current thread and returns it.
+     */
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Returns the instance bound to the current thread, or {@code null} if nothing is being counted.
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the given instance to the current thread, or unbinds when {@code stats} is {@code null}.
+     */
+    public static void bind(QueryStats stats) {
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+    }
+
+    void record(long nanos) {
+        statementCount.incrementAndGet();
+        elapsedNanos.addAndGet(nanos);
+    }
+
+    public int getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.get();
+    }
+
+    public double getElapsedMillis() {
+        return (double) elapsedNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.springboot.monitoring;
+
+import com.springboot.exception.QueryBudgetExceededException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+/**
+ * Counts SQL statements and database time per request, reports them as response headers
+ * and checks them against the {@link QueryBudget} of the handler method.
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Query-Count";
+    public static final String ELAPSED_TIME_HEADER = "X-Query-Time-Ms";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+    private final boolean addHeaders;
+    private final boolean failOnBudgetExceeded;
+    private final IntSupplier shardCount;
+
+    public QueryStatsFilter(boolean addHeaders, boolean failOnBudgetExceeded) {
+        this(addHeaders, failOnBudgetExceeded, () -> 1);
+    }
+
+    /**
+     * @param shardCount number of databases a per-shard {@link QueryBudget} is multiplied by
+     */
+    public QueryStatsFilter(boolean addHeaders, boolean failOnBudgetExceeded, IntSupplier shardCount) {
+        this.addHeaders = addHeaders;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats previous = QueryStats.current();
+        QueryStats stats = QueryStats.start();
+        try {
+            if (addHeaders) {
+                StatsHeaderResponseWrapper wrapper = new StatsHeaderResponseWrapper(response, stats);
+                filterChain.doFilter(request, wrapper);
+                wrapper.addStatsHeaders();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            QueryStats.bind(previous);
+        }
+
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        logger.debug("{} executed {} SQL statement(s) in {} ms", endpoint, stats.getStatementCount(), formatMillis(stats));
+        checkBudget(request, endpoint, stats);
+    }
+
+    private void checkBudget(HttpServletRequest request, String endpoint, QueryStats stats) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            return;
+        }
+        int maxStatements = budget.perShard() ? budget.maxStatements() * shardCount.getAsInt() : budget.maxStatements();
+        if (stats.getStatementCount() <= maxStatements) {
+            return;
+        }
+        QueryBudgetExceededException exception =
+                new QueryBudgetExceededException(endpoint, maxStatements, stats.getStatementCount());
+        if (failOnBudgetExceeded) {
+            throw exception;
+        }
+        logger.warn(exception.getMessage());
+    }
+
+    private static String formatMillis(QueryStats stats) {
+        return String.format(Locale.ROOT, "%.3f", stats.getElapsedMillis());
+    }
+
+    /**
+     * Adds the statistics headers just before the response is committed, which for
+     * REST handlers is after the handler method has returned.
+     */
+    private static final class StatsHeaderResponseWrapper extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean headersAdded;
+
+        private StatsHeaderResponseWrapper(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void addStatsHeaders() {
+            if (headersAdded || isCommitted()) {
+                return;
+            }
+            headersAdded = true;
+            setHeader(STATEMENT_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            setHeader(ELAPSED_TIME_HEADER, formatMillis(stats));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addStatsHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addStatsHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addStatsHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addStatsHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addStatsHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addStatsHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.springboot.service;
 
 import com.springboot.model.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +12,10 @@ public interface EmployeeService {
 
     List<Employee> getAll();
 
+    Page<Employee> getPage(Pageable pageable);
+
+    long count();
+
     Optional<Employee> findById(Integer id);
 
     Employee update(Employee employee, Integer id);
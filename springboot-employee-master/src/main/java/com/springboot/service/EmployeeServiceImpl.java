@@ -1,20 +1,28 @@
 package com.springboot.service;
 
+import com.springboot.cache.EmployeeJsonCache;
 import com.springboot.exception.EmployeeNotFoundException;
 import com.springboot.model.Employee;
 import com.springboot.repository.EmployeeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeJsonCache employeeJsonCache;
+
     @Override
     public Employee save(Employee employee) {
         return employeeRepository.save(employee);
@@ -25,6 +33,16 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeeRepository.findAll();
     }
 
+    @Override
+    public Page<Employee> getPage(Pageable pageable) {
+        return employeeRepository.findAll(pageable);
+    }
+
+    @Override
+    public long count() {
+        return employeeRepository.count();
+    }
+
     @Override
     public Optional<Employee> findById(Integer id) {
         return employeeRepository.findById(id)
@@ -39,7 +57,9 @@ public class EmployeeServiceImpl implements EmployeeService {
         existingEmployee.setName(employee.getName());
         existingEmployee.setEmail(employee.getEmail());
         existingEmployee.setRole(employee.getRole());
-        return employeeRepository.save(existingEmployee);
+        Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        employeeJsonCache.evict(id);
+        return updatedEmployee;
     }
 
     @Override
@@ -47,5 +67,6 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee existingEmployee = employeeRepository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee", "Id", id));
         employeeRepository.delete(existingEmployee);
+        employeeJsonCache.evict(id);
     }
 }
\ No newline at end of file
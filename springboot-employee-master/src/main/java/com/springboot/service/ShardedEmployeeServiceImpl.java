@@ -0,0 +1,159 @@
+package com.springboot.service;
+
+import com.springboot.cache.EmployeeJsonCache;
+import com.springboot.exception.EmployeeNotFoundException;
+import com.springboot.model.Employee;
+import com.springboot.sharding.Shard;
+import com.springboot.sharding.ShardRouter;
+import com.springboot.sharding.ShardedIdGenerator;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * {@link EmployeeService} that spreads employees over several databases by the hash of
+ * their id. Single-employee operations go to the owning shard, list operations query all
+ * shards in parallel and merge the results ordered by id.
+ */
+public class ShardedEmployeeServiceImpl implements EmployeeService {
+
+    private static final String SELECT_EMPLOYEE = "SELECT id, name, email, role, version FROM employee";
+
+    private static final RowMapper<Employee> EMPLOYEE_ROW_MAPPER = (rs, rowNum) -> Employee.builder()
+            .id(rs.getInt("id"))
+            .name(rs.getString("name"))
+            .email(rs.getString("email"))
+            .role(rs.getString("role"))
+            .version(rs.getInt("version"))
+            .build();
+
+    private final ShardRouter shardRouter;
+    private final ShardedIdGenerator idGenerator;
+    private final EmployeeJsonCache employeeJsonCache;
+
+    public ShardedEmployeeServiceImpl(ShardRouter shardRouter, ShardedIdGenerator idGenerator,
+                                      EmployeeJsonCache employeeJsonCache) {
+        this.shardRouter = shardRouter;
+        this.idGenerator = idGenerator;
+        this.employeeJsonCache = employeeJsonCache;
+    }
+
+    @Override
+    public Employee save(Employee employee) {
+        employee.setId(idGenerator.nextId());
+        employee.setVersion(0);
+        shardRouter.shardFor(employee.getId()).jdbcTemplate()
+                .update("INSERT INTO employee (id, name, email, role, version) VALUES (?, ?, ?, ?, ?)",
+                        employee.getId(), employee.getName(), employee.getEmail(), employee.getRole(), employee.getVersion());
+        return employee;
+    }
+
+    @Override
+    public List<Employee> getAll() {
+        return merge(shard -> shard.jdbcTemplate().query(SELECT_EMPLOYEE, EMPLOYEE_ROW_MAPPER));
+    }
+
+    /**
+     * Pages are always ordered by id. Every shard returns its first {@code offset + size}
+     * employees, which is enough to cut the requested page out of the merged result.
+     */
+    @Override
+    public Page<Employee> getPage(Pageable pageable) {
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        List<Employee> content = merge(shard -> shard.jdbcTemplate()
+                        .query(SELECT_EMPLOYEE + " ORDER BY id LIMIT ?", EMPLOYEE_ROW_MAPPER, limit))
+                .stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, count());
+    }
+
+    /**
+     * Sums {@code COUNT(*)} of every shard. Copies left behind by an interrupted rebalance
+     * would be counted twice; they are removed by running the rebalance again.
+     */
+    @Override
+    public long count() {
+        return shardRouter.scatter(shard -> shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM employee", Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public Optional<Employee> findById(Integer id) {
+        return Optional.of(load(shardFor(id), id));
+    }
+
+    @Override
+    public Employee update(Employee employee, Integer id) {
+        Shard shard = shardFor(id);
+        Employee existingEmployee = load(shard, id);
+        int updated = shard.jdbcTemplate()
+                .update("UPDATE employee SET name = ?, email = ?, role = ?, version = version + 1 WHERE id = ? AND version = ?",
+                        employee.getName(), employee.getEmail(), employee.getRole(), id, existingEmployee.getVersion());
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Employee with Id : '" + id + "' was modified concurrently");
+        }
+        existingEmployee.setName(employee.getName());
+        existingEmployee.setEmail(employee.getEmail());
+        existingEmployee.setRole(employee.getRole());
+        existingEmployee.setVersion(existingEmployee.getVersion() + 1);
+        employeeJsonCache.evict(id);
+        return existingEmployee;
+    }
+
+    @Override
+    public void delete(Integer id) {
+        int deleted = shardFor(id).jdbcTemplate().update("DELETE FROM employee WHERE id = ?", id);
+        if (deleted == 0) {
+            throw new EmployeeNotFoundException("Employee", "Id", id);
+        }
+        employeeJsonCache.evict(id);
+    }
+
+    /**
+     * Queries all shards and merges the employees ordered by id. An employee found on more
+     * than one shard, which happens while a rebalance copies it, is returned once, preferring
+     * the copy on the shard that owns its id.
+     */
+    private List<Employee> merge(Function<Shard, List<Employee>> query) {
+        List<Shard> shards = shardRouter.getShards();
+        List<List<Employee>> results = shardRouter.scatter(query);
+        TreeMap<Integer, Employee> employees = new TreeMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get(i);
+            for (Employee employee : results.get(i)) {
+                if (shardRouter.shardFor(employee.getId()) == shard) {
+                    employees.put(employee.getId(), employee);
+                } else {
+                    employees.putIfAbsent(employee.getId(), employee);
+                }
+            }
+        }
+        return new ArrayList<>(employees.values());
+    }
+
+    private Shard shardFor(Integer id) {
+        if (id == null) {
+            throw new EmployeeNotFoundException("Employee", "Id", null);
+        }
+        return shardRouter.shardFor(id);
+    }
+
+    private Employee load(Shard shard, Integer id) {
+        return shard.jdbcTemplate().query(SELECT_EMPLOYEE + " WHERE id = ?", EMPLOYEE_ROW_MAPPER, id)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee", "Id", id));
+    }
+}
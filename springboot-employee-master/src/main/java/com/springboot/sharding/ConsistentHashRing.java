@@ -0,0 +1,46 @@
+package com.springboot.sharding;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps integer keys to shard names. Each shard occupies several positions on a
+ * 32-bit ring and a key belongs to the first position at or after its own hash,
+ * so adding a shard only moves the keys that land on the new positions.
+ */
+public class ConsistentHashRing {
+
+    private final TreeMap<Integer, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> shardNames, int virtualNodes) {
+        if (shardNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        for (String shardName : shardNames) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(mix((shardName + "#" + i).hashCode()), shardName);
+            }
+        }
+    }
+
+    public String shardFor(int key) {
+        Map.Entry<Integer, String> entry = ring.ceilingEntry(mix(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreads sequential keys evenly over the ring.
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
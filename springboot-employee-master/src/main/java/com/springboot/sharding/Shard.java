@@ -0,0 +1,12 @@
+package com.springboot.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+public record Shard(String name, DataSource dataSource, JdbcTemplate jdbcTemplate) {
+
+    public Shard(String name, DataSource dataSource) {
+        this(name, dataSource, new JdbcTemplate(dataSource));
+    }
+}
@@ -0,0 +1,78 @@
+package com.springboot.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves every employee that is not stored on the shard owning its id, which is needed
+ * after a shard has been appended to the configuration. Until an employee has been moved,
+ * reads and writes routed to its new shard do not find it, so the rebalance has to finish
+ * before requests are served. Each row is written to its new shard before it is deleted
+ * from the old one, so an interrupted run can simply be repeated; the rerun also removes
+ * the copies it left behind.
+ */
+public class ShardRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    private final ShardRouter router;
+    private final int batchSize;
+
+    public ShardRebalancer(ShardRouter router, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.router = router;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the number of employees that were moved. Each shard is read in batches
+     * ordered by id, so only one batch is held in memory at a time.
+     */
+    public int rebalance() {
+        int moved = 0;
+        for (Shard source : router.getShards()) {
+            int checked = 0;
+            int lastId = Integer.MIN_VALUE;
+            while (true) {
+                List<Map<String, Object>> rows = source.jdbcTemplate().queryForList(
+                        "SELECT id, name, email, role, version FROM employee WHERE id > ? ORDER BY id LIMIT ?",
+                        lastId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (Map<String, Object> row : rows) {
+                    int id = ((Number) row.get("id")).intValue();
+                    Shard target = router.shardFor(id);
+                    if (!target.name().equals(source.name())) {
+                        move(row, id, source.jdbcTemplate(), target.jdbcTemplate());
+                        moved++;
+                    }
+                    lastId = id;
+                }
+                checked += rows.size();
+            }
+            logger.info("Rebalanced shard {}: checked {} employees", source.name(), checked);
+        }
+        logger.info("Rebalancing finished: moved {} employees", moved);
+        return moved;
+    }
+
+    /**
+     * A copy already on the target is left from an interrupted run and is the one requests
+     * have been routed to, so it is kept and only the old copy is removed.
+     */
+    private void move(Map<String, Object> row, int id, JdbcTemplate source, JdbcTemplate target) {
+        Integer existing = target.queryForObject("SELECT COUNT(*) FROM employee WHERE id = ?", Integer.class, id);
+        if (existing == null || existing == 0) {
+            target.update("INSERT INTO employee (id, name, email, role, version) VALUES (?, ?, ?, ?, ?)",
+                    id, row.get("name"), row.get("email"), row.get("role"), row.get("version"));
+        }
+        source.update("DELETE FROM employee WHERE id = ?", id);
+    }
+}
@@ -0,0 +1,110 @@
+package com.springboot.sharding;
+
+import com.springboot.monitoring.QueryStats;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Routes employee ids to their shard and runs queries on all shards in parallel.
+ */
+public class ShardRouter implements AutoCloseable {
+
+    private final Map<String, Shard> shards = new LinkedHashMap<>();
+    private final ConsistentHashRing ring;
+    private final ExecutorService executor;
+
+    /**
+     * @param scatterConcurrency number of scatter queries expected to run at the same time;
+     *                           the query pool gets that many threads per shard
+     */
+    public ShardRouter(List<Shard> shards, int virtualNodes, int scatterConcurrency) {
+        if (scatterConcurrency < 1) {
+            throw new IllegalArgumentException("scatterConcurrency must be positive");
+        }
+        for (Shard shard : shards) {
+            if (this.shards.put(shard.name(), shard) != null) {
+                throw new IllegalArgumentException("Duplicate shard name: " + shard.name());
+            }
+        }
+        this.ring = new ConsistentHashRing(this.shards.keySet(), virtualNodes);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("shard-query-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(shards.size() * scatterConcurrency, threadFactory);
+    }
+
+    public Shard shardFor(int id) {
+        return shards.get(ring.shardFor(id));
+    }
+
+    public List<Shard> getShards() {
+        return new ArrayList<>(shards.values());
+    }
+
+    /**
+     * The shard that was configured first; it holds data that is not sharded.
+     */
+    public Shard getPrimaryShard() {
+        return shards.values().iterator().next();
+    }
+
+    /**
+     * Runs {@code query} on every shard in parallel and returns the results in shard order.
+     * Statements executed on the worker threads are counted in the caller's {@link QueryStats}.
+     */
+    public <T> List<T> scatter(Function<Shard, T> query) {
+        QueryStats stats = QueryStats.current();
+        List<Future<T>> futures = new ArrayList<>();
+        for (Shard shard : shards.values()) {
+            futures.add(executor.submit(() -> {
+                QueryStats.bind(stats);
+                try {
+                    return query.apply(shard);
+                } finally {
+                    QueryStats.bind(null);
+                }
+            }));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdownNow();
+        for (Shard shard : shards.values()) {
+            DataSource dataSource = shard.dataSource();
+            while (dataSource instanceof DelegatingDataSource delegating) {
+                dataSource = delegating.getTargetDataSource();
+            }
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.springboot.sharding;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Creates the tables used in sharded mode. Every shard gets an {@code employee} table,
+ * the primary shard also gets the id sequence.
+ */
+public final class ShardSchema {
+
+    public static final String EMPLOYEE_ID_SEQUENCE = "employee";
+
+    private ShardSchema() {
+    }
+
+    public static void initialize(ShardRouter router) {
+        for (Shard shard : router.getShards()) {
+            shard.jdbcTemplate().execute("CREATE TABLE IF NOT EXISTS employee ("
+                    + "id INT NOT NULL PRIMARY KEY, "
+                    + "name VARCHAR(255), "
+                    + "email VARCHAR(255), "
+                    + "role VARCHAR(255), "
+                    + "version INT)");
+        }
+        JdbcTemplate primary = router.getPrimaryShard().jdbcTemplate();
+        primary.execute("CREATE TABLE IF NOT EXISTS id_sequence ("
+                + "name VARCHAR(64) NOT NULL PRIMARY KEY, "
+                + "next_value INT NOT NULL)");
+        Integer existing = primary.queryForObject("SELECT COUNT(*) FROM id_sequence WHERE name = ?",
+                Integer.class, EMPLOYEE_ID_SEQUENCE);
+        if (existing == null || existing == 0) {
+            try {
+                primary.update("INSERT INTO id_sequence (name, next_value) VALUES (?, 1)", EMPLOYEE_ID_SEQUENCE);
+            } catch (DuplicateKeyException e) {
+                // created concurrently by another instance
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.springboot.sharding;
+
+import com.springboot.monitoring.QueryStats;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Hands out employee ids that are unique across all shards. Ids are reserved in blocks
+ * from the sequence on the primary shard with a compare-and-set update, so several
+ * application instances can share the sequence without locking.
+ */
+public class ShardedIdGenerator {
+
+    private final JdbcTemplate sequence;
+    private final int blockSize;
+
+    private int next;
+    private int limit;
+
+    public ShardedIdGenerator(ShardRouter router, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive");
+        }
+        this.sequence = router.getPrimaryShard().jdbcTemplate();
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Reserving a block is not counted in the caller's {@link QueryStats}: it happens once
+     * per {@code blockSize} ids, and counting it would break the budget of whichever
+     * request happens to trigger it.
+     */
+    public synchronized int nextId() {
+        if (next == limit) {
+            QueryStats stats = QueryStats.current();
+            QueryStats.bind(null);
+            try {
+                reserveBlock();
+            } finally {
+                QueryStats.bind(stats);
+            }
+        }
+        return next++;
+    }
+
+    private void reserveBlock() {
+        while (true) {
+            Integer current = sequence.queryForObject("SELECT next_value FROM id_sequence WHERE name = ?",
+                    Integer.class, ShardSchema.EMPLOYEE_ID_SEQUENCE);
+            int start = current;
+            int end = Math.addExact(start, blockSize);
+            int updated = sequence.update("UPDATE id_sequence SET next_value = ? WHERE name = ? AND next_value = ?",
+                    end, ShardSchema.EMPLOYEE_ID_SEQUENCE, start);
+            if (updated == 1) {
+                next = start;
+                limit = end;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.springboot.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.sharding")
+@Getter
+@Setter
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    /**
+     * Positions each shard takes on the hash ring; more positions spread the ids more evenly.
+     */
+    private int virtualNodes = 64;
+
+    /**
+     * Number of list, page or count requests expected to query the shards at the same time.
+     * The shard query pool is sized to this many threads per shard and each shard's connection
+     * pool gets as many connections on top of those for single-employee requests; further
+     * requests wait.
+     */
+    private int scatterConcurrency = 16;
+
+    /**
+     * Number of ids reserved from the id sequence per round trip.
+     */
+    private int idBlockSize = 100;
+
+    /**
+     * Moves every employee to the shard that owns its id during startup, before the web
+     * server accepts requests. Startup takes as long as the rebalance.
+     */
+    private boolean rebalanceOnStartup;
+
+    /**
+     * Number of employees read from a shard at a time while rebalancing.
+     */
+    private int rebalanceBatchSize = 1000;
+
+    /**
+     * Shards in the order they were added. New shards must be appended, since the first
+     * shard also holds the id sequence.
+     */
+    private List<ShardProperties> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class ShardProperties {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+
+        /**
+         * Connections in this shard's pool. Defaults to scatter-concurrency for list, page and
+         * count queries plus 10 for single-employee requests.
+         */
+        private Integer maximumPoolSize;
+    }
+}
@@ -0,0 +1,85 @@
+package com.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.springboot.cache.EmployeeJsonCache;
+import com.springboot.model.Employee;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+/**
+ * Compares writing the GET /api/employees/{id} body with Jackson, as the former
+ * ResponseEntity&lt;Optional&lt;Employee&gt;&gt; path did, against writing the cached bytes.
+ * Each path is measured on one thread: throughput from wall-clock time, allocation from
+ * the thread's allocated bytes. Both paths need a fresh MockHttpOutputMessage per write,
+ * so the "setup" row measures creating that message alone and its bytes per operation are
+ * subtracted to give the "net" allocation of the body write itself.
+ *
+ * Excluded from the default build, run with:
+ * mvn test -Dgroups=benchmark -DexcludedGroups=none -Dtest=EmployeeJsonBenchmark
+ */
+@Tag("benchmark")
+class EmployeeJsonBenchmark {
+
+    private static final int OPERATIONS = 2_000_000;
+    private static final int ROUNDS = 3;
+
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    @Test
+    void jacksonVersusCachedBytes() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new Jdk8Module());
+        MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        ByteArrayHttpMessageConverter bytesConverter = new ByteArrayHttpMessageConverter();
+        EmployeeJsonCache cache = new EmployeeJsonCache(objectMapper, 1 << 20);
+        Employee employee = Employee.builder()
+                .id(1)
+                .version(3)
+                .name("Ravi Kumar")
+                .email("ravi@gmail.com")
+                .role("Developer")
+                .build();
+
+        Operation setup = MockHttpOutputMessage::new;
+        Operation jackson = () -> jacksonConverter.write(Optional.of(employee), MediaType.APPLICATION_JSON,
+                new MockHttpOutputMessage());
+        Operation cached = () -> bytesConverter.write(cache.getOrSerialize(employee), MediaType.APPLICATION_JSON,
+                new MockHttpOutputMessage());
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            double setupBytes = measure("setup", setup, 0);
+            measure("jackson", jackson, setupBytes);
+            measure("cached", cached, setupBytes);
+        }
+    }
+
+    /**
+     * Returns the allocated bytes per operation, after a warm-up of a quarter of the operations.
+     */
+    private double measure(String name, Operation operation, double setupBytes) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < OPERATIONS / 4; i++) {
+            operation.run();
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        double bytesPerOperation = (double) (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / OPERATIONS;
+        System.out.printf("%-8s %8.0f ops/ms %8.1f B/op %8.1f B/op net%n",
+                name, OPERATIONS / (elapsed / 1e6), bytesPerOperation, bytesPerOperation - setupBytes);
+        return bytesPerOperation;
+    }
+}
@@ -72,6 +72,53 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].name", is("Arun")));
     }
 
+    @Test
+    public void givenEmployees_whenGetPage_thenReturnRequestedPage() throws Exception {
+        List<Employee> employees = Arrays.asList(
+                createEmployee(),
+                Employee.builder().name("Arun").email("arun@gmail.com").role("Tester").build(),
+                Employee.builder().name("Kiran").email("kiran@gmail.com").role("Manager").build()
+        );
+        employeeRepository.saveAll(employees);
+
+        ResultActions response = mockMvc.perform(get("/api/employees/page")
+                .param("page", "1")
+                .param("size", "2"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Kiran")))
+                .andExpect(jsonPath("$.totalElements", is(employees.size())));
+    }
+
+    @Test
+    public void givenInvalidPageRequest_whenGetPage_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/employees/page").param("page", "-1"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/employees/page").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/employees/page").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/employees/page").param("page", "1000000").param("size", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenEmployees_whenCount_thenReturnNumberOfEmployees() throws Exception {
+        employeeRepository.saveAll(Arrays.asList(
+                createEmployee(),
+                Employee.builder().name("Arun").email("arun@gmail.com").role("Tester").build()
+        ));
+
+        ResultActions response = mockMvc.perform(get("/api/employees/count"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+    }
+
     @Test
     public void givenEmployeeId_whenGetEmployeeById_thenReturnEmployee() throws Exception {
         Employee employee = createEmployee();
@@ -120,6 +167,30 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.role", is(updatedEmployee.getRole())));
     }
 
+    @Test
+    public void givenReadEmployee_whenUpdateEmployee_thenGetReturnsUpdatedEmployee() throws Exception {
+        Employee savedEmployee = employeeRepository.save(createEmployee());
+        mockMvc.perform(get("/api/employees/{id}", savedEmployee.getId()))
+                .andExpect(jsonPath("$.name", is(savedEmployee.getName())));
+
+        Employee updatedEmployee = Employee.builder()
+                .name("Ramesh")
+                .email("ramesh@gmail.com")
+                .role("Developer")
+                .build();
+        mockMvc.perform(put("/api/employees/{id}", savedEmployee.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", savedEmployee.getId()));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is(updatedEmployee.getName())))
+                .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())))
+                .andExpect(jsonPath("$.version", is(savedEmployee.getVersion() + 1)));
+    }
+
     @Test
     public void givenInvalidEmployeeId_whenUpdateEmployee_thenReturnNotFound() throws Exception {
         int invalidId = 999;
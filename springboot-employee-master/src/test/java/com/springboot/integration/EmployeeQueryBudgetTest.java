@@ -0,0 +1,100 @@
+package com.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.model.Employee;
+import com.springboot.monitoring.QueryStatsFilter;
+import com.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeeQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    public void whenCreateEmployee_thenExecuteOneStatement() throws Exception {
+        mockMvc.perform(post("/api/employees/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEmployee())))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "1"))
+                .andExpect(header().exists(QueryStatsFilter.ELAPSED_TIME_HEADER));
+    }
+
+    @Test
+    public void whenGetAllEmployees_thenExecuteOneStatement() throws Exception {
+        employeeRepository.save(createEmployee());
+        employeeRepository.save(Employee.builder().name("Arun").email("arun@gmail.com").role("Tester").build());
+
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "1"));
+    }
+
+    @Test
+    public void whenGetEmployeeById_thenExecuteOneStatement() throws Exception {
+        Employee savedEmployee = employeeRepository.save(createEmployee());
+
+        mockMvc.perform(get("/api/employees/{id}", savedEmployee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "1"));
+    }
+
+    @Test
+    public void givenInvalidEmployeeId_whenGetEmployeeById_thenExecuteOneStatement() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", 999))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "1"));
+    }
+
+    @Test
+    public void whenUpdateEmployee_thenExecuteTwoStatements() throws Exception {
+        Employee savedEmployee = employeeRepository.save(createEmployee());
+        Employee updatedEmployee = Employee.builder().name("Ramesh").email("ramesh@gmail.com").role("Developer").build();
+
+        mockMvc.perform(put("/api/employees/{id}", savedEmployee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedEmployee)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "2"));
+    }
+
+    @Test
+    public void whenDeleteEmployee_thenExecuteTwoStatements() throws Exception {
+        Employee savedEmployee = employeeRepository.save(createEmployee());
+
+        mockMvc.perform(delete("/api/employees/{id}", savedEmployee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "2"));
+    }
+
+    private Employee createEmployee() {
+        return Employee.builder()
+                .name("Ravi")
+                .email("ravi@gmail.com")
+                .role("Developer")
+                .build();
+    }
+}
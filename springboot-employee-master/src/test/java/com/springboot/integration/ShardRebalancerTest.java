@@ -0,0 +1,98 @@
+package com.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.cache.EmployeeJsonCache;
+import com.springboot.model.Employee;
+import com.springboot.service.EmployeeService;
+import com.springboot.service.ShardedEmployeeServiceImpl;
+import com.springboot.sharding.Shard;
+import com.springboot.sharding.ShardRebalancer;
+import com.springboot.sharding.ShardRouter;
+import com.springboot.sharding.ShardSchema;
+import com.springboot.sharding.ShardedIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardRebalancerTest {
+
+    @Test
+    public void givenAddedShard_whenRebalance_thenMoveEmployeesToOwningShard() throws Exception {
+        Shard shard0 = createShard("rebalance0");
+        Shard shard1 = createShard("rebalance1");
+        Shard shard2 = createShard("rebalance2");
+
+        List<Integer> ids = new ArrayList<>();
+        try (ShardRouter twoShards = createRouter(shard0, shard1)) {
+            EmployeeService employeeService = createService(twoShards);
+            for (int i = 0; i < 40; i++) {
+                ids.add(employeeService.save(Employee.builder().name("Employee " + i).role("Developer").build()).getId());
+            }
+        }
+
+        try (ShardRouter threeShards = createRouter(shard0, shard1, shard2)) {
+            ShardRebalancer rebalancer = new ShardRebalancer(threeShards, 7);
+
+            int moved = rebalancer.rebalance();
+
+            assertTrue(moved > 0);
+            assertEquals(moved, countEmployees(shard2));
+            for (Shard shard : threeShards.getShards()) {
+                shard.jdbcTemplate().queryForList("SELECT id FROM employee", Integer.class)
+                        .forEach(id -> assertEquals(shard.name(), threeShards.shardFor(id).name()));
+            }
+            EmployeeService employeeService = createService(threeShards);
+            assertEquals(ids, employeeService.getAll().stream().map(Employee::getId).toList());
+            for (Integer id : ids) {
+                assertTrue(employeeService.findById(id).isPresent());
+            }
+            assertEquals(0, rebalancer.rebalance());
+        }
+    }
+
+    @Test
+    public void givenCopyLeftByInterruptedRun_whenRebalance_thenKeepOnlyOwningCopy() throws Exception {
+        Shard shard0 = createShard("interrupted0");
+        Shard shard1 = createShard("interrupted1");
+
+        try (ShardRouter router = createRouter(shard0, shard1)) {
+            EmployeeService employeeService = createService(router);
+            Employee employee = employeeService.save(Employee.builder().name("Ravi").role("Developer").build());
+            Shard owner = router.shardFor(employee.getId());
+            Shard other = owner == shard0 ? shard1 : shard0;
+            other.jdbcTemplate().update("INSERT INTO employee (id, name, email, role, version) VALUES (?, ?, ?, ?, ?)",
+                    employee.getId(), "Stale copy", employee.getEmail(), employee.getRole(), employee.getVersion());
+            assertEquals(2, employeeService.count());
+
+            new ShardRebalancer(router, 7).rebalance();
+
+            assertEquals(1, employeeService.count());
+            assertEquals(1, countEmployees(owner));
+            assertEquals(0, countEmployees(other));
+            assertEquals("Ravi", employeeService.findById(employee.getId()).orElseThrow().getName());
+        }
+    }
+
+    private Shard createShard(String name) {
+        return new Shard(name, new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1"));
+    }
+
+    private ShardRouter createRouter(Shard... shards) {
+        ShardRouter router = new ShardRouter(List.of(shards), 64, 1);
+        ShardSchema.initialize(router);
+        return router;
+    }
+
+    private EmployeeService createService(ShardRouter router) {
+        return new ShardedEmployeeServiceImpl(router, new ShardedIdGenerator(router, 10),
+                new EmployeeJsonCache(new ObjectMapper(), 1024));
+    }
+
+    private int countEmployees(Shard shard) {
+        return shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM employee", Integer.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.model.Employee;
+import com.springboot.monitoring.QueryStatsFilter;
+import com.springboot.service.EmployeeService;
+import com.springboot.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.sharding.enabled=true",
+        "app.sharding.id-block-size=10",
+        "app.sharding.shards[0].url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[1].url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[2].url=jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+public class ShardedEmployeeControllerTest {
+
+    private static final int SHARDS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private List<Employee> savedEmployees;
+
+    @BeforeEach
+    void setup() {
+        shardRouter.getShards().forEach(shard -> shard.jdbcTemplate().update("DELETE FROM employee"));
+        savedEmployees = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            savedEmployees.add(employeeService.save(Employee.builder()
+                    .name("Employee " + i)
+                    .email("employee" + i + "@gmail.com")
+                    .role("Developer")
+                    .build()));
+        }
+    }
+
+    @Test
+    public void whenCreateEmployees_thenExecuteOneStatementEach() throws Exception {
+        // more than one id block (id-block-size=10), so at least one request reserves a block
+        for (int i = 0; i < 11; i++) {
+            Employee employee = Employee.builder().name("Ravi " + i).email("ravi@gmail.com").role("Developer").build();
+
+            ResultActions response = mockMvc.perform(post("/api/employees/create")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(employee)));
+
+            response.andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").exists())
+                    .andExpect(jsonPath("$.name", is(employee.getName())))
+                    .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "1"));
+        }
+    }
+
+    @Test
+    public void givenEmployees_whenGetAllEmployees_thenQueryEachShardOnce() throws Exception {
+        ResultActions response = mockMvc.perform(get("/api/employees"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(savedEmployees.size())))
+                .andExpect(jsonPath("$[0].id", is(savedEmployees.get(0).getId())))
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, String.valueOf(SHARDS)));
+    }
+
+    @Test
+    public void givenEmployees_whenGetPage_thenQueryEachShardTwice() throws Exception {
+        ResultActions response = mockMvc.perform(get("/api/employees/page")
+                .param("page", "1")
+                .param("size", "5"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(5)))
+                .andExpect(jsonPath("$.content[0].id", is(savedEmployees.get(5).getId())))
+                .andExpect(jsonPath("$.totalElements", is(savedEmployees.size())))
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, String.valueOf(2 * SHARDS)));
+    }
+
+    @Test
+    public void givenEmployees_whenCount_thenQueryEachShardOnce() throws Exception {
+        ResultActions response = mockMvc.perform(get("/api/employees/count"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().string(String.valueOf(savedEmployees.size())))
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, String.valueOf(SHARDS)));
+    }
+
+    @Test
+    public void givenEmployeeId_whenGetEmployeeById_thenQueryOneShard() throws Exception {
+        Employee employee = savedEmployees.get(3);
+
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employee.getId()));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is(employee.getName())))
+                .andExpect(header().string(QueryStatsFilter.STATEMENT_COUNT_HEADER, "1"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.springboot.integration;
+
+import com.springboot.exception.EmployeeNotFoundException;
+import com.springboot.model.Employee;
+import com.springboot.repository.EmployeeRepository;
+import com.springboot.monitoring.QueryStats;
+import com.springboot.service.EmployeeService;
+import com.springboot.service.ShardedEmployeeServiceImpl;
+import com.springboot.sharding.Shard;
+import com.springboot.sharding.ShardRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:mysql://unreachable.invalid:3306/test",
+        "app.sharding.enabled=true",
+        "app.sharding.id-block-size=10",
+        "app.sharding.shards[0].url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[1].url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[2].url=jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[2].maximum-pool-size=5"
+})
+public class ShardedEmployeeServiceTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @BeforeEach
+    void setup() {
+        shardRouter.getShards().forEach(shard -> shard.jdbcTemplate().update("DELETE FROM employee"));
+    }
+
+    @Test
+    public void givenShardingEnabled_thenUseShardedService() {
+        assertInstanceOf(ShardedEmployeeServiceImpl.class, employeeService);
+    }
+
+    @Test
+    public void givenShardingEnabled_thenDoNotConfigureSingleDataSource() {
+        assertEquals(0, applicationContext.getBeanNamesForType(DataSource.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(EmployeeRepository.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(EntityManagerFactory.class).length);
+    }
+
+    @Test
+    public void whenScatter_thenRunOnNamedDaemonThreads() {
+        List<Thread> threads = shardRouter.scatter(shard -> Thread.currentThread());
+
+        assertEquals(shardRouter.getShards().size(), threads.size());
+        threads.forEach(thread -> {
+            assertTrue(thread.getName().startsWith("shard-query-"));
+            assertTrue(thread.isDaemon());
+        });
+    }
+
+    @Test
+    public void givenShards_thenSizeConnectionPoolsForScatterConcurrency() throws Exception {
+        List<Shard> shards = shardRouter.getShards();
+
+        assertEquals(16 + 10, shards.get(0).dataSource().unwrap(HikariDataSource.class).getMaximumPoolSize());
+        assertEquals(16 + 10, shards.get(1).dataSource().unwrap(HikariDataSource.class).getMaximumPoolSize());
+        assertEquals(5, shards.get(2).dataSource().unwrap(HikariDataSource.class).getMaximumPoolSize());
+    }
+
+    @Test
+    public void givenEmployees_whenSave_thenStoreEachOnItsOwnShard() {
+        List<Employee> saved = saveEmployees(30);
+
+        for (Employee employee : saved) {
+            Shard owner = shardRouter.shardFor(employee.getId());
+            for (Shard shard : shardRouter.getShards()) {
+                Integer count = shard.jdbcTemplate()
+                        .queryForObject("SELECT COUNT(*) FROM employee WHERE id = ?", Integer.class, employee.getId());
+                assertEquals(shard == owner ? 1 : 0, count);
+            }
+        }
+        shardRouter.getShards().forEach(shard -> assertTrue(
+                shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM employee", Integer.class) > 0));
+    }
+
+    @Test
+    public void givenEmployee_whenFindById_thenQueryOnlyOwningShard() {
+        Employee saved = saveEmployees(1).get(0);
+
+        QueryStats stats = QueryStats.start();
+        Employee found;
+        try {
+            found = employeeService.findById(saved.getId()).orElseThrow();
+        } finally {
+            QueryStats.bind(null);
+        }
+
+        assertEquals(saved.getName(), found.getName());
+        assertEquals(0, found.getVersion());
+        assertEquals(1, stats.getStatementCount());
+    }
+
+    @Test
+    public void givenEmployees_whenGetAll_thenMergeAllShardsOrderedById() {
+        List<Employee> saved = saveEmployees(30);
+
+        QueryStats stats = QueryStats.start();
+        List<Employee> employees;
+        try {
+            employees = employeeService.getAll();
+        } finally {
+            QueryStats.bind(null);
+        }
+
+        assertEquals(saved.stream().map(Employee::getId).toList(), employees.stream().map(Employee::getId).toList());
+        assertEquals(shardRouter.getShards().size(), stats.getStatementCount());
+    }
+
+    @Test
+    public void givenEmployees_whenGetPage_thenReturnPageAcrossShards() {
+        List<Employee> saved = saveEmployees(25);
+
+        Page<Employee> page = employeeService.getPage(PageRequest.of(1, 10));
+
+        assertEquals(25, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(saved.subList(10, 20).stream().map(Employee::getId).toList(),
+                page.getContent().stream().map(Employee::getId).toList());
+        assertEquals(25, employeeService.count());
+    }
+
+    @Test
+    public void givenCopyOnOtherShard_whenList_thenReturnOwningCopyOnce() {
+        List<Employee> saved = saveEmployees(5);
+        Employee copied = saved.get(0);
+        Shard owner = shardRouter.shardFor(copied.getId());
+        Shard other = shardRouter.getShards().stream().filter(shard -> shard != owner).findFirst().orElseThrow();
+        other.jdbcTemplate().update("INSERT INTO employee (id, name, email, role, version) VALUES (?, ?, ?, ?, ?)",
+                copied.getId(), "Stale copy", copied.getEmail(), copied.getRole(), copied.getVersion());
+
+        List<Employee> employees = employeeService.getAll();
+        Page<Employee> page = employeeService.getPage(PageRequest.of(0, 10));
+
+        assertEquals(saved.stream().map(Employee::getId).toList(), employees.stream().map(Employee::getId).toList());
+        assertEquals(copied.getName(), employees.get(0).getName());
+        assertEquals(5, page.getContent().size());
+        assertEquals(copied.getName(), page.getContent().get(0).getName());
+    }
+
+    @Test
+    public void givenEmployee_whenUpdate_thenIncrementVersion() {
+        Employee saved = saveEmployees(1).get(0);
+        Employee update = Employee.builder().name("Ramesh").email("ramesh@gmail.com").role("Tester").build();
+
+        Employee updated = employeeService.update(update, saved.getId());
+
+        assertEquals(1, updated.getVersion());
+        Employee found = employeeService.findById(saved.getId()).orElseThrow();
+        assertEquals("Ramesh", found.getName());
+        assertEquals("Tester", found.getRole());
+        assertEquals(1, found.getVersion());
+    }
+
+    @Test
+    public void givenEmployee_whenDelete_thenNotFound() {
+        Employee saved = saveEmployees(1).get(0);
+
+        employeeService.delete(saved.getId());
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.findById(saved.getId()));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.delete(saved.getId()));
+        assertEquals(0, employeeService.count());
+    }
+
+    private List<Employee> saveEmployees(int count) {
+        List<Employee> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            saved.add(employeeService.save(Employee.builder()
+                    .name("Employee " + i)
+                    .email("employee" + i + "@gmail.com")
+                    .role("Developer")
+                    .build()));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,63 @@
+package com.springboot.unit;
+
+import com.springboot.sharding.ConsistentHashRing;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 30_000;
+
+    @Test
+    void testSameKeyAlwaysOnSameShard() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 64);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("shard-2", "shard-0", "shard-1"), 64);
+
+        for (int id = 1; id <= KEYS; id++) {
+            assertEquals(ring.shardFor(id), ring.shardFor(id));
+            assertEquals(ring.shardFor(id), reordered.shardFor(id));
+        }
+    }
+
+    @Test
+    void testKeysSpreadOverAllShards() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 64);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int id = 1; id <= KEYS; id++) {
+            counts.merge(ring.shardFor(id), 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(count > KEYS / 3 / 2, "unbalanced shards: " + counts));
+    }
+
+    @Test
+    void testAddingShardOnlyMovesKeysToNewShard() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 64);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2", "shard-3"), 64);
+
+        int moved = 0;
+        for (int id = 1; id <= KEYS; id++) {
+            String oldShard = before.shardFor(id);
+            String newShard = after.shardFor(id);
+            if (!oldShard.equals(newShard)) {
+                assertEquals("shard-3", newShard);
+                moved++;
+            }
+        }
+
+        assertTrue(moved > 0);
+        assertTrue(moved < KEYS / 2, "too many keys moved: " + moved);
+    }
+
+    @Test
+    void testNoShards() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 64));
+    }
+}
@@ -1,16 +1,25 @@
 package com.springboot.unit;
 
+import com.springboot.cache.EmployeeJsonCache;
 import com.springboot.controller.EmployeeController;
 import com.springboot.exception.EmployeeNotFoundException;
+import com.springboot.exception.InvalidPageRequestException;
 import com.springboot.model.Employee;
 import com.springboot.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.slf4j.Logger;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +33,9 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeJsonCache employeeJsonCache;
+
     // Optional: mock logger if you want to verify logging (not mandatory)
     @Mock
     private Logger logger;
@@ -56,34 +68,103 @@ class EmployeeControllerTest {
         verify(employeeService).save(employee);
     }
 
+    @Test
+    void testGetAllEmployees() {
+        Employee emp1 = new Employee();
+        emp1.setId(1);
+        emp1.setName("John Doe");
+
+        Employee emp2 = new Employee();
+        emp2.setId(2);
+        emp2.setName("Jane Smith");
+
+        List<Employee> employees = Arrays.asList(emp1, emp2);
+
+        when(employeeService.getAll()).thenReturn(employees);
+
+        ResponseEntity<List<Employee>> response = employeeController.getAll();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(employees, response.getBody());
+
+        verify(employeeService).getAll();
+    }
+
+    @Test
+    void testGetPage() {
+        Employee emp1 = new Employee();
+        emp1.setId(1);
+        emp1.setName("John Doe");
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("id"));
+        Page<Employee> page = new PageImpl<>(List.of(emp1), pageRequest, 1);
+
+        when(employeeService.getPage(pageRequest)).thenReturn(page);
+
+        ResponseEntity<Page<Employee>> response = employeeController.getPage(0, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+
+        verify(employeeService).getPage(pageRequest);
+    }
+
+    @Test
+    void testGetPageInvalid() {
+        assertThrows(InvalidPageRequestException.class, () -> employeeController.getPage(-1, 10));
+        assertThrows(InvalidPageRequestException.class, () -> employeeController.getPage(0, 0));
+        assertThrows(InvalidPageRequestException.class, () -> employeeController.getPage(0, 101));
+        assertThrows(InvalidPageRequestException.class, () -> employeeController.getPage(101, 100));
+        assertThrows(InvalidPageRequestException.class, () -> employeeController.getPage(1_000_000, 100));
+
+        verify(employeeService, never()).getPage(any());
+    }
+
+    @Test
+    void testCount() {
+        when(employeeService.count()).thenReturn(2L);
+
+        ResponseEntity<Long> response = employeeController.count();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2L, response.getBody());
+
+        verify(employeeService).count();
+    }
+
     @Test
     void testGetByIdFound() {
         Employee employee = new Employee();
         employee.setId(1);
         employee.setName("Jane Doe");
         employee.setEmail("jane@example.com");
+        byte[] json = "{\"id\":1}".getBytes();
 
         when(employeeService.findById(1)).thenReturn(Optional.of(employee));
+        when(employeeJsonCache.getOrSerialize(employee)).thenReturn(json);
 
-        ResponseEntity<Optional<Employee>> response = employeeController.getById(1);
+        ResponseEntity<byte[]> response = employeeController.getById(1);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertTrue(response.getBody().isPresent());
-        assertEquals(employee, response.getBody().get());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(json, response.getBody());
 
         verify(employeeService).findById(1);
+        verify(employeeJsonCache).getOrSerialize(employee);
     }
 
     @Test
     void testGetByIdNotFound() {
         when(employeeService.findById(2)).thenReturn(Optional.empty());
 
-        ResponseEntity<Optional<Employee>> response = employeeController.getById(2);
+        EmployeeNotFoundException thrown = assertThrows(EmployeeNotFoundException.class, () -> {
+            employeeController.getById(2);
+        });
 
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertFalse(response.getBody().isPresent());
+        assertTrue(thrown.getMessage().contains("2"));
 
         verify(employeeService).findById(2);
+        verify(employeeJsonCache, never()).getOrSerialize(any());
     }
 
     @Test
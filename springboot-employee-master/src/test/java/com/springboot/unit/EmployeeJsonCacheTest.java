@@ -0,0 +1,87 @@
+package com.springboot.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.cache.EmployeeJsonCache;
+import com.springboot.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testSameVersionReusesBytes() throws Exception {
+        EmployeeJsonCache cache = new EmployeeJsonCache(objectMapper, 1024);
+        Employee employee = createEmployee(1, 0, "John Doe");
+
+        byte[] first = cache.getOrSerialize(employee);
+        byte[] second = cache.getOrSerialize(employee);
+
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(employee), first);
+        assertEquals(1, cache.size());
+        assertEquals(first.length, cache.getTotalBytes());
+    }
+
+    @Test
+    void testNewVersionReplacesEntry() {
+        EmployeeJsonCache cache = new EmployeeJsonCache(objectMapper, 1024);
+
+        byte[] first = cache.getOrSerialize(createEmployee(1, 0, "John Doe"));
+        byte[] second = cache.getOrSerialize(createEmployee(1, 1, "John Smith"));
+
+        assertNotSame(first, second);
+        assertTrue(new String(second, StandardCharsets.UTF_8).contains("John Smith"));
+        assertEquals(1, cache.size());
+        assertEquals(second.length, cache.getTotalBytes());
+    }
+
+    @Test
+    void testEvict() {
+        EmployeeJsonCache cache = new EmployeeJsonCache(objectMapper, 1024);
+        Employee employee = createEmployee(1, 0, "John Doe");
+
+        byte[] first = cache.getOrSerialize(employee);
+        cache.evict(1);
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalBytes());
+        assertNotSame(first, cache.getOrSerialize(employee));
+    }
+
+    @Test
+    void testBoundedByTotalBytes() throws Exception {
+        int entrySize = objectMapper.writeValueAsBytes(createEmployee(1, 0, "John Doe")).length;
+        EmployeeJsonCache cache = new EmployeeJsonCache(objectMapper, entrySize * 2L);
+
+        for (int id = 1; id <= 10; id++) {
+            cache.getOrSerialize(createEmployee(id, 0, "John Doe"));
+        }
+
+        assertTrue(cache.size() <= 2);
+        assertTrue(cache.getTotalBytes() <= entrySize * 2L);
+    }
+
+    @Test
+    void testUnversionedEmployeeNotCached() {
+        EmployeeJsonCache cache = new EmployeeJsonCache(objectMapper, 1024);
+        Employee employee = createEmployee(1, null, "John Doe");
+
+        assertNotSame(cache.getOrSerialize(employee), cache.getOrSerialize(employee));
+        assertEquals(0, cache.size());
+    }
+
+    private Employee createEmployee(Integer id, Integer version, String name) {
+        return Employee.builder()
+                .id(id)
+                .version(version)
+                .name(name)
+                .email("john@example.com")
+                .role("Developer")
+                .build();
+    }
+}
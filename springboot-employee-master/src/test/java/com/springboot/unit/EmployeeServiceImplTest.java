@@ -1,5 +1,6 @@
 package com.springboot.unit;
 
+import com.springboot.cache.EmployeeJsonCache;
 import com.springboot.exception.EmployeeNotFoundException;
 import com.springboot.model.Employee;
 import com.springboot.repository.EmployeeRepository;
@@ -7,6 +8,9 @@ import com.springboot.service.EmployeeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +27,9 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeJsonCache employeeJsonCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -69,6 +76,31 @@ class EmployeeServiceImplTest {
         verify(employeeRepository).findAll();
     }
 
+    @Test
+    void testGetPage() {
+        Employee emp1 = new Employee();
+        emp1.setId(1);
+        emp1.setName("John Doe");
+
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Page<Employee> page = new PageImpl<>(List.of(emp1), pageRequest, 1);
+
+        when(employeeRepository.findAll(pageRequest)).thenReturn(page);
+
+        Page<Employee> result = employeeService.getPage(pageRequest);
+
+        assertEquals(page, result);
+        verify(employeeRepository).findAll(pageRequest);
+    }
+
+    @Test
+    void testCount() {
+        when(employeeRepository.count()).thenReturn(2L);
+
+        assertEquals(2L, employeeService.count());
+        verify(employeeRepository).count();
+    }
+
     @Test
     void testFindByIdFound() {
         Employee employee = new Employee();
@@ -130,6 +162,7 @@ class EmployeeServiceImplTest {
 
         verify(employeeRepository).findById(1);
         verify(employeeRepository).save(existingEmployee);
+        verify(employeeJsonCache).evict(1);
     }
 
     @Test
@@ -150,6 +183,7 @@ class EmployeeServiceImplTest {
 
         verify(employeeRepository).findById(99);
         verify(employeeRepository, never()).save(any());
+        verify(employeeJsonCache, never()).evict(any());
     }
 
     @Test
@@ -165,6 +199,7 @@ class EmployeeServiceImplTest {
 
         verify(employeeRepository).findById(1);
         verify(employeeRepository).delete(existingEmployee);
+        verify(employeeJsonCache).evict(1);
     }
 
     @Test
@@ -181,5 +216,6 @@ class EmployeeServiceImplTest {
 
         verify(employeeRepository).findById(99);
         verify(employeeRepository, never()).delete(any());
+        verify(employeeJsonCache, never()).evict(any());
     }
 }
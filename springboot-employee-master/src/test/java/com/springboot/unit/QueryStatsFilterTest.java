@@ -0,0 +1,161 @@
+package com.springboot.unit;
+
+import com.springboot.exception.QueryBudgetExceededException;
+import com.springboot.monitoring.QueryBudget;
+import com.springboot.monitoring.QueryStats;
+import com.springboot.monitoring.QueryStatsFilter;
+import com.springboot.monitoring.StatementInspectingDataSource;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryStatsFilterTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        dataSource = new StatementInspectingDataSource(targetDataSource);
+    }
+
+    @Test
+    void testStatementsCountedOnlyWhileBound() throws Exception {
+        executeStatements(1);
+
+        QueryStats stats = QueryStats.start();
+        try {
+            executeStatements(2);
+        } finally {
+            QueryStats.bind(null);
+        }
+        executeStatements(1);
+
+        assertEquals(2, stats.getStatementCount());
+        verify(preparedStatement, times(4)).executeQuery();
+    }
+
+    @Test
+    void testCloseClosesTarget() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+
+        new StatementInspectingDataSource(pool).close();
+
+        verify((AutoCloseable) pool).close();
+    }
+
+    @Test
+    void testHeadersWithinBudget() throws Exception {
+        MockHttpServletRequest request = requestFor("withinBudget");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new QueryStatsFilter(true, true).doFilter(request, response, chainExecuting(1));
+
+        assertEquals("1", response.getHeader(QueryStatsFilter.STATEMENT_COUNT_HEADER));
+        assertNotNull(response.getHeader(QueryStatsFilter.ELAPSED_TIME_HEADER));
+    }
+
+    @Test
+    void testBudgetExceededFails() throws Exception {
+        MockHttpServletRequest request = requestFor("withinBudget");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        QueryBudgetExceededException thrown = assertThrows(QueryBudgetExceededException.class, () -> {
+            new QueryStatsFilter(true, true).doFilter(request, response, chainExecuting(2));
+        });
+
+        assertEquals(1, thrown.getMaxStatements());
+        assertEquals(2, thrown.getActualStatements());
+        assertTrue(thrown.getMessage().contains("GET /api/employees/1"));
+    }
+
+    @Test
+    void testBudgetExceededOnlyWarnsByDefault() throws Exception {
+        MockHttpServletRequest request = requestFor("withinBudget");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertDoesNotThrow(() -> new QueryStatsFilter(true, false).doFilter(request, response, chainExecuting(2)));
+        assertEquals("2", response.getHeader(QueryStatsFilter.STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void testPerShardBudgetMultipliedByShardCount() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertDoesNotThrow(() -> new QueryStatsFilter(true, true, () -> 3)
+                .doFilter(requestFor("perShard"), response, chainExecuting(3)));
+        assertThrows(QueryBudgetExceededException.class, () -> new QueryStatsFilter(true, true, () -> 3)
+                .doFilter(requestFor("perShard"), new MockHttpServletResponse(), chainExecuting(4)));
+        assertThrows(QueryBudgetExceededException.class, () -> new QueryStatsFilter(true, true, () -> 3)
+                .doFilter(requestFor("withinBudget"), new MockHttpServletResponse(), chainExecuting(3)));
+    }
+
+    @Test
+    void testHeadersDisabled() throws Exception {
+        MockHttpServletRequest request = requestFor("withinBudget");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new QueryStatsFilter(false, false).doFilter(request, response, chainExecuting(1));
+
+        assertNull(response.getHeader(QueryStatsFilter.STATEMENT_COUNT_HEADER));
+    }
+
+    private FilterChain chainExecuting(int statements) {
+        return (request, response) -> {
+            try {
+                executeStatements(statements);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private void executeStatements(int statements) throws Exception {
+        try (Connection con = dataSource.getConnection()) {
+            for (int i = 0; i < statements; i++) {
+                con.prepareStatement("select * from employee where id = ?").executeQuery();
+            }
+        }
+    }
+
+    private MockHttpServletRequest requestFor(String methodName) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod(methodName)));
+        return request;
+    }
+
+    static class BudgetedHandler {
+
+        @QueryBudget(maxStatements = 1)
+        public void withinBudget() {
+        }
+
+        @QueryBudget(maxStatements = 1, perShard = true)
+        public void perShard() {
+        }
+    }
+}